@@ -1,13 +1,18 @@
 package org.example;
 
 import org.example.config.AppConfig;
+import org.example.config.ConfigWatcher;
 import org.example.model.Claim;
+import org.example.model.ClaimSummary;
 import org.example.service.*;
 import org.example.state.ThrottlingState;
 // --- CORRECT IMPORTS ---
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.*;
@@ -21,38 +26,143 @@ public class Main {
         log.info("System starting up...");
         long startTime = System.currentTimeMillis();
 
-        // 1. Load Configuration
-        final AppConfig config = new AppConfig("config.properties");
-        int workerCount = config.getInt("worker.count");
-        int backlogCapacity = config.getInt("backlog.capacity");
+        // 1. Load Configuration (classpath defaults, overridden by an optional external file that is watched for changes)
+        final Path configFile = Paths.get(System.getProperty("config.file", "config.properties"));
+        final AppConfig config = new AppConfig("config.properties", configFile);
+
+        if (args.length > 0 && "--coordinator".equals(args[0])) {
+            int partitionCount = args.length > 1 ? parsePartitionCount(args[1]) : config.current().getPartitionCount();
+            runCoordinator(config, partitionCount, startTime);
+        } else if (args.length > 0 && "--partition".equals(args[0])) {
+            if (args.length < 3) {
+                log.error("Usage: --partition <claims-csv> <summary-file>");
+                System.exit(2);
+            }
+            runPartition(config, args[1], Paths.get(args[2]));
+        } else {
+            ClaimSummary summary = processClaims("claims.csv", config);
+            long duration = System.currentTimeMillis() - startTime;
+            SummaryReporter.generateReports(summary, duration, config, 1);
+        }
+
+        log.info("Claim processing system has finished successfully.");
+    }
+
+    private static int parsePartitionCount(String value) {
+        try {
+            int partitionCount = Integer.parseInt(value);
+            if (partitionCount >= 1) {
+                return partitionCount;
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to the usage message below.
+        }
+        log.error("Invalid partition count '{}'. Usage: --coordinator [partition-count >= 1]", value);
+        System.exit(2);
+        return -1; // Unreachable
+    }
+
+    /**
+     * Splits the input across worker processes and writes the merged reports.
+     */
+    private static void runCoordinator(AppConfig config, int partitionCount, long startTime) {
+        log.info("Running in coordinator mode with {} partitions.", partitionCount);
+        PartitionCoordinator coordinator = new PartitionCoordinator("claims.csv", Paths.get("partitions"), config, partitionCount);
+        Thread shutdownHook = new Thread(() -> {
+            log.info("Shutdown signal received. Stopping partition workers...");
+            coordinator.shutdown();
+        });
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        ClaimSummary summary = null;
+        try {
+            summary = coordinator.run();
+        } catch (IOException e) {
+            log.error("Coordinated run failed. No reports were written.", e);
+        } catch (InterruptedException e) {
+            log.error("Coordinator interrupted while waiting for partitions.", e);
+            Thread.currentThread().interrupt();
+        }
+
+        // The hook only exists to catch a signal during the run; on failure, stop any leftover workers here.
+        removeShutdownHook(shutdownHook);
+        if (summary == null) {
+            coordinator.shutdown();
+            System.exit(1);
+        }
+        long duration = System.currentTimeMillis() - startTime;
+        SummaryReporter.generateReports(summary, duration, config, partitionCount);
+    }
+
+    private static void removeShutdownHook(Thread hook) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException e) {
+            // The JVM is already shutting down, so the hook is running and does the cleanup.
+        }
+    }
+
+    /**
+     * Processes a single partition and leaves its summary for the coordinator to merge.
+     */
+    private static void runPartition(AppConfig config, String csvFilePath, Path summaryFile) {
+        log.info("Running as partition worker for '{}'.", csvFilePath);
+        ClaimSummary summary = processClaims(csvFilePath, config);
+        try {
+            summary.writeTo(summaryFile);
+            log.info("Partition summary written to '{}': {}", summaryFile, summary);
+        } catch (IOException e) {
+            log.error("Failed to write partition summary to '{}'.", summaryFile, e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the ingest, dispatch and worker pipeline over one claim file until every claim reaches a final status.
+     */
+    private static ClaimSummary processClaims(String csvFilePath, AppConfig config) {
+        int workerCount = config.current().getWorkerCount();
+        int backlogCapacity = config.current().getBacklogCapacity();
 
         // 2. Create Shared State and Core Components
         final ThrottlingState throttlingState = new ThrottlingState();
         final BlockingQueue<Claim> claimQueue = new PriorityBlockingQueue<>(backlogCapacity);
         final Set<String> processedClaimIds = ConcurrentHashMap.newKeySet();
-        final ExecutorService workerPool = Executors.newFixedThreadPool(workerCount);
+        final ThreadPoolExecutor workerPool = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
         final List<Claim> allProcessedClaims = new CopyOnWriteArrayList<>();
         final AtomicInteger totalIngested = new AtomicInteger(0);
 
         // 3. Instantiate Services (Dependency Injection)
         final FraudDetector fraudDetector = new FraudDetector(config, throttlingState);
-        final ClaimIngestor ingestor = new ClaimIngestor("claims.csv", claimQueue, throttlingState, processedClaimIds, totalIngested);
+        final ClaimIngestor ingestor = new ClaimIngestor(csvFilePath, claimQueue, throttlingState, processedClaimIds, totalIngested);
         final ClaimDispatcher dispatcher = new ClaimDispatcher(claimQueue, workerPool, config, fraudDetector, allProcessedClaims);
+        final ConfigWatcher configWatcher = new ConfigWatcher(config);
+
+        // Apply reloaded configuration to the running components
+        config.addListener(fraudDetector);
+        config.addListener((previous, current) -> {
+            if (previous.getWorkerCount() != current.getWorkerCount()) {
+                resizeWorkerPool(workerPool, current.getWorkerCount());
+            }
+        });
 
         // 4. Start all background services
         Thread ingestorThread = new Thread(ingestor, "Claim-Ingestor");
         Thread dispatcherThread = new Thread(dispatcher, "Claim-Dispatcher");
         Thread fraudDetectorThread = new Thread(fraudDetector, "Fraud-Detector");
+        Thread configWatcherThread = new Thread(configWatcher, "Config-Watcher");
 
         ingestorThread.start();
         dispatcherThread.start();
         fraudDetectorThread.start();
+        configWatcherThread.start();
 
         // 5. Setup Graceful Shutdown
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             log.info("Shutdown signal received. Finishing in-flight work...");
             dispatcher.shutdown();
             fraudDetectorThread.interrupt();
+            configWatcherThread.interrupt();
             shutdownAndAwaitTermination(workerPool);
             log.info("Shutdown complete.");
         }));
@@ -77,13 +187,23 @@ public class Main {
             log.info("All claims processed. Initiating final shutdown sequence.");
             dispatcher.shutdown();
             fraudDetectorThread.interrupt();
+            configWatcherThread.interrupt();
             shutdownAndAwaitTermination(workerPool);
-
-            long duration = System.currentTimeMillis() - startTime;
-            SummaryReporter.generateReports(allProcessedClaims, duration, fraudDetector.getSuspiciousClaimCount(), config);
         }
 
-        log.info("Claim processing system has finished successfully.");
+        return ClaimSummary.fromClaims(allProcessedClaims, fraudDetector.getSuspiciousClaimCount());
+    }
+
+    private static void resizeWorkerPool(ThreadPoolExecutor pool, int newSize) {
+        // The core size may never exceed the maximum, so the order of the two updates depends on the direction.
+        if (newSize > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(newSize);
+            pool.setCorePoolSize(newSize);
+        } else {
+            pool.setCorePoolSize(newSize);
+            pool.setMaximumPoolSize(newSize);
+        }
+        log.info("Worker pool resized to {} threads.", newSize);
     }
 
     private static void shutdownAndAwaitTermination(ExecutorService pool) {
@@ -1,32 +1,114 @@
 package org.example.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Holds the current {@link ConfigSnapshot}. Defaults come from a classpath resource and
+ * may be overridden by an external properties file, which can be reloaded at runtime.
+ */
 public class AppConfig {
-    private final Properties properties = new Properties();
+    private static final Logger log = LoggerFactory.getLogger(AppConfig.class);
+
+    private final Properties defaults = new Properties();
+    private final Path overrideFile;
+    private final AtomicReference<ConfigSnapshot> current = new AtomicReference<>();
+    private final List<ConfigListener> listeners = new CopyOnWriteArrayList<>();
 
     public AppConfig(String resourceName) {
+        this(resourceName, null);
+    }
+
+    public AppConfig(String resourceName, Path overrideFile) {
+        this.overrideFile = overrideFile;
         try (InputStream input = getClass().getClassLoader().getResourceAsStream(resourceName)) {
             if (input == null) {
                 throw new IOException("Unable to find " + resourceName);
             }
-            properties.load(input);
+            defaults.load(input);
         } catch (IOException ex) {
             throw new RuntimeException("Failed to load configuration file.", ex);
         }
+
+        try {
+            current.set(ConfigSnapshot.fromProperties(1, loadProperties()));
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new RuntimeException("Failed to load configuration file.", ex);
+        }
+        log.info("Configuration loaded: {}", current.get());
+    }
+
+    public ConfigSnapshot current() {
+        return current.get();
     }
 
-    public int getInt(String key) {
-        return Integer.parseInt(properties.getProperty(key));
+    public Path getOverrideFile() {
+        return overrideFile;
     }
 
-    public long getLong(String key) {
-        return Long.parseLong(properties.getProperty(key));
+    public void addListener(ConfigListener listener) {
+        listeners.add(listener);
     }
 
-    public String getString(String key) {
-        return properties.getProperty(key);
+    /**
+     * Re-reads the external file and atomically swaps in a new snapshot if any value changed.
+     * An unreadable or invalid file leaves the current snapshot in place. Changes to values
+     * that are only read at startup are recorded but logged as requiring a restart.
+     * @return true if a new snapshot was applied.
+     */
+    public synchronized boolean reload() {
+        ConfigSnapshot previous = current.get();
+        ConfigSnapshot next;
+        try {
+            next = ConfigSnapshot.fromProperties(previous.getVersion() + 1, loadProperties());
+        } catch (IOException | IllegalArgumentException ex) {
+            log.error("Configuration reload rejected, keeping version {}: {}", previous.getVersion(), ex.getMessage());
+            return false;
+        }
+
+        List<String> liveChanges = next.describeLiveChanges(previous);
+        List<String> restartChanges = next.describeRestartRequiredChanges(previous);
+        if (liveChanges.isEmpty() && restartChanges.isEmpty()) {
+            log.debug("Configuration file touched but no values changed.");
+            return false;
+        }
+
+        current.set(next);
+        if (!liveChanges.isEmpty()) {
+            log.info("Configuration reloaded (version {} -> {}), applied: {}",
+                    previous.getVersion(), next.getVersion(), String.join(", ", liveChanges));
+        }
+        if (!restartChanges.isEmpty()) {
+            log.warn("Configuration version {} changes require a restart and are not in effect yet: {}",
+                    next.getVersion(), String.join(", ", restartChanges));
+        }
+        for (ConfigListener listener : listeners) {
+            try {
+                listener.onConfigChanged(previous, next);
+            } catch (RuntimeException ex) {
+                log.error("Failed to apply configuration version {} to {}", next.getVersion(), listener, ex);
+            }
+        }
+        return true;
+    }
+
+    private Properties loadProperties() throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(defaults);
+        if (overrideFile != null && Files.isRegularFile(overrideFile)) {
+            try (InputStream input = Files.newInputStream(overrideFile)) {
+                properties.load(input);
+            }
+        }
+        return properties;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package org.example.config;
+
+/**
+ * Notified after a new configuration snapshot has been swapped in.
+ */
+public interface ConfigListener {
+    void onConfigChanged(ConfigSnapshot previous, ConfigSnapshot current);
+}
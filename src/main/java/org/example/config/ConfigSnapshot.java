@@ -0,0 +1,176 @@
+package org.example.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable, fully parsed view of the application configuration.
+ * Values are parsed once when the snapshot is built, so readers never touch raw strings.
+ */
+public final class ConfigSnapshot {
+    // Read once when the queue or the coordinator is built; a reload records them, but they apply only after a restart.
+    private static final Set<String> RESTART_REQUIRED_KEYS = Set.of(
+            "backlog.capacity",
+            "partition.count",
+            "partition.max.restarts",
+            "partition.timeout.ms");
+
+    private final long version;
+    private final int workerCount;
+    private final int backlogCapacity;
+    private final int retryLimit;
+    private final long suspiciousWindowSeconds;
+    private final int suspiciousThreshold;
+    private final long throttlingPauseMs;
+    private final int suspiciousClaimAmount;
+    private final String suspiciousClaimType;
+    private final int partitionCount;
+    private final int partitionMaxRestarts;
+    private final long partitionTimeoutMs;
+
+    private ConfigSnapshot(long version, Properties properties) {
+        this.version = version;
+        this.workerCount = requirePositive("worker.count", parseInt(properties, "worker.count"));
+        this.backlogCapacity = requirePositive("backlog.capacity", parseInt(properties, "backlog.capacity"));
+        this.retryLimit = requirePositive("retry.limit", parseInt(properties, "retry.limit"));
+        this.suspiciousWindowSeconds = requirePositive("suspicious.window.seconds", parseLong(properties, "suspicious.window.seconds"));
+        this.suspiciousThreshold = requireNonNegative("suspicious.threshold", parseInt(properties, "suspicious.threshold"));
+        this.throttlingPauseMs = requireNonNegative("throttling.pause.ms", parseLong(properties, "throttling.pause.ms"));
+        this.suspiciousClaimAmount = requireNonNegative("suspicious.claim.amount", parseInt(properties, "suspicious.claim.amount"));
+        this.suspiciousClaimType = require(properties, "suspicious.claim.type");
+        this.partitionCount = requirePositive("partition.count", parseInt(properties, "partition.count"));
+        this.partitionMaxRestarts = requireNonNegative("partition.max.restarts", parseInt(properties, "partition.max.restarts"));
+        this.partitionTimeoutMs = requirePositive("partition.timeout.ms", parseLong(properties, "partition.timeout.ms"));
+    }
+
+    /**
+     * Parses and validates the given properties.
+     * @throws IllegalArgumentException if a key is missing or holds an invalid value.
+     */
+    public static ConfigSnapshot fromProperties(long version, Properties properties) {
+        return new ConfigSnapshot(version, properties);
+    }
+
+    /**
+     * Describes the changed values, e.g. "retry.limit 3 -> 5", that running components pick up without a restart.
+     */
+    public List<String> describeLiveChanges(ConfigSnapshot previous) {
+        return describeChanges(previous, key -> !RESTART_REQUIRED_KEYS.contains(key));
+    }
+
+    /**
+     * Describes the changed values that are only read at startup and take effect after a restart.
+     */
+    public List<String> describeRestartRequiredChanges(ConfigSnapshot previous) {
+        return describeChanges(previous, RESTART_REQUIRED_KEYS::contains);
+    }
+
+    private List<String> describeChanges(ConfigSnapshot previous, Predicate<String> keyFilter) {
+        Map<String, String> changes = new LinkedHashMap<>();
+        addChange(changes, "worker.count", previous.workerCount, workerCount);
+        addChange(changes, "backlog.capacity", previous.backlogCapacity, backlogCapacity);
+        addChange(changes, "retry.limit", previous.retryLimit, retryLimit);
+        addChange(changes, "suspicious.window.seconds", previous.suspiciousWindowSeconds, suspiciousWindowSeconds);
+        addChange(changes, "suspicious.threshold", previous.suspiciousThreshold, suspiciousThreshold);
+        addChange(changes, "throttling.pause.ms", previous.throttlingPauseMs, throttlingPauseMs);
+        addChange(changes, "suspicious.claim.amount", previous.suspiciousClaimAmount, suspiciousClaimAmount);
+        addChange(changes, "suspicious.claim.type", previous.suspiciousClaimType, suspiciousClaimType);
+        addChange(changes, "partition.count", previous.partitionCount, partitionCount);
+        addChange(changes, "partition.max.restarts", previous.partitionMaxRestarts, partitionMaxRestarts);
+        addChange(changes, "partition.timeout.ms", previous.partitionTimeoutMs, partitionTimeoutMs);
+
+        List<String> descriptions = new ArrayList<>();
+        changes.forEach((key, change) -> {
+            if (keyFilter.test(key)) {
+                descriptions.add(key + " " + change);
+            }
+        });
+        return descriptions;
+    }
+
+    public long getVersion() { return version; }
+    public int getWorkerCount() { return workerCount; }
+    public int getBacklogCapacity() { return backlogCapacity; }
+    public int getRetryLimit() { return retryLimit; }
+    public long getSuspiciousWindowSeconds() { return suspiciousWindowSeconds; }
+    public int getSuspiciousThreshold() { return suspiciousThreshold; }
+    public long getThrottlingPauseMs() { return throttlingPauseMs; }
+    public int getSuspiciousClaimAmount() { return suspiciousClaimAmount; }
+    public String getSuspiciousClaimType() { return suspiciousClaimType; }
+    public int getPartitionCount() { return partitionCount; }
+    public int getPartitionMaxRestarts() { return partitionMaxRestarts; }
+    public long getPartitionTimeoutMs() { return partitionTimeoutMs; }
+
+    private static void addChange(Map<String, String> changes, String key, Object oldValue, Object newValue) {
+        if (!Objects.equals(oldValue, newValue)) {
+            changes.put(key, oldValue + " -> " + newValue);
+        }
+    }
+
+    private static String require(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing configuration value: " + key);
+        }
+        return value.trim();
+    }
+
+    private static int parseInt(Properties properties, String key) {
+        String value = require(properties, key);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for " + key + ": " + value, e);
+        }
+    }
+
+    private static long parseLong(Properties properties, String key) {
+        String value = require(properties, key);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + value, e);
+        }
+    }
+
+    private static int requirePositive(String key, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(key + " must be at least 1, was " + value);
+        }
+        return value;
+    }
+
+    private static long requirePositive(String key, long value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(key + " must be at least 1, was " + value);
+        }
+        return value;
+    }
+
+    private static int requireNonNegative(String key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " must not be negative, was " + value);
+        }
+        return value;
+    }
+
+    private static long requireNonNegative(String key, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " must not be negative, was " + value);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConfigSnapshot[v%d, workers=%d, retryLimit=%d, suspicious=%s>=%d, threshold=%d/%ds]",
+                version, workerCount, retryLimit, suspiciousClaimType, suspiciousClaimAmount,
+                suspiciousThreshold, suspiciousWindowSeconds);
+    }
+}
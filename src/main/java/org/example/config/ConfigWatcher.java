@@ -0,0 +1,71 @@
+package org.example.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A background service that watches the external configuration file and triggers
+ * {@link AppConfig#reload()} whenever it is created or modified. Does nothing if the
+ * configuration has no external file.
+ */
+public class ConfigWatcher implements Runnable {
+    private static final Logger log = LoggerFactory.getLogger(ConfigWatcher.class);
+    // Editors often write a file in several steps; wait briefly so we read the final content.
+    private static final long SETTLE_MS = 200;
+
+    private final AppConfig config;
+    private final Path file;
+
+    public ConfigWatcher(AppConfig config) {
+        this.config = config;
+        this.file = config.getOverrideFile() == null ? null : config.getOverrideFile().toAbsolutePath();
+    }
+
+    @Override
+    public void run() {
+        if (file == null) {
+            log.info("No external configuration file set. Live reload is disabled.");
+            return;
+        }
+        Path directory = file.getParent();
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            log.info("Config watcher started. Watching '{}' for changes.", file);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.poll(500, TimeUnit.MILLISECONDS);
+                if (key == null) continue;
+
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+
+                if (changed) {
+                    Thread.sleep(SETTLE_MS);
+                    config.reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.error("Config watcher could not watch '{}'. Live reload is disabled.", file, e);
+        }
+        log.info("Config watcher shut down.");
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Aggregated outcome of a run: claim counts per final status, amount paid, attempts and suspicious claims.
+ * Summaries from separate partitions can be merged and exchanged between processes as properties files.
+ */
+public final class ClaimSummary {
+    private final long totalClaims;
+    private final long approved;
+    private final long rejected;
+    private final long escalated;
+    private final long totalAmountPaid;
+    private final long totalAttempts;
+    private final long suspiciousCount;
+
+    public ClaimSummary(long totalClaims, long approved, long rejected, long escalated,
+                        long totalAmountPaid, long totalAttempts, long suspiciousCount) {
+        this.totalClaims = totalClaims;
+        this.approved = approved;
+        this.rejected = rejected;
+        this.escalated = escalated;
+        this.totalAmountPaid = totalAmountPaid;
+        this.totalAttempts = totalAttempts;
+        this.suspiciousCount = suspiciousCount;
+    }
+
+    public static ClaimSummary empty() {
+        return new ClaimSummary(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public static ClaimSummary fromClaims(Collection<Claim> claims, long suspiciousCount) {
+        long approved = 0, rejected = 0, escalated = 0, amountPaid = 0, attempts = 0;
+        for (Claim claim : claims) {
+            switch (claim.getStatus()) {
+                case APPROVED:
+                    approved++;
+                    amountPaid += claim.getClaimAmount();
+                    break;
+                case REJECTED:
+                    rejected++;
+                    break;
+                case ESCALATED:
+                    escalated++;
+                    break;
+                default:
+                    break;
+            }
+            attempts += claim.getAttempts();
+        }
+        return new ClaimSummary(claims.size(), approved, rejected, escalated, amountPaid, attempts, suspiciousCount);
+    }
+
+    public ClaimSummary merge(ClaimSummary other) {
+        return new ClaimSummary(
+                totalClaims + other.totalClaims,
+                approved + other.approved,
+                rejected + other.rejected,
+                escalated + other.escalated,
+                totalAmountPaid + other.totalAmountPaid,
+                totalAttempts + other.totalAttempts,
+                suspiciousCount + other.suspiciousCount
+        );
+    }
+
+    /**
+     * Writes the summary to a temporary file first and then moves it into place,
+     * so a reader never observes a partially written file.
+     */
+    public void writeTo(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("claims.total", Long.toString(totalClaims));
+        properties.setProperty("claims.approved", Long.toString(approved));
+        properties.setProperty("claims.rejected", Long.toString(rejected));
+        properties.setProperty("claims.escalated", Long.toString(escalated));
+        properties.setProperty("amount.paid", Long.toString(totalAmountPaid));
+        properties.setProperty("attempts.total", Long.toString(totalAttempts));
+        properties.setProperty("suspicious.count", Long.toString(suspiciousCount));
+
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(tempFile)) {
+            properties.store(output, "Claim summary");
+        }
+        Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static ClaimSummary readFrom(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(path)) {
+            properties.load(input);
+        }
+        try {
+            return new ClaimSummary(
+                    Long.parseLong(properties.getProperty("claims.total")),
+                    Long.parseLong(properties.getProperty("claims.approved")),
+                    Long.parseLong(properties.getProperty("claims.rejected")),
+                    Long.parseLong(properties.getProperty("claims.escalated")),
+                    Long.parseLong(properties.getProperty("amount.paid")),
+                    Long.parseLong(properties.getProperty("attempts.total")),
+                    Long.parseLong(properties.getProperty("suspicious.count"))
+            );
+        } catch (NumberFormatException e) {
+            throw new IOException("Corrupt claim summary file: " + path, e);
+        }
+    }
+
+    public long getTotalClaims() { return totalClaims; }
+    public long getApproved() { return approved; }
+    public long getRejected() { return rejected; }
+    public long getEscalated() { return escalated; }
+    public long getTotalAmountPaid() { return totalAmountPaid; }
+    public long getTotalAttempts() { return totalAttempts; }
+    public long getSuspiciousCount() { return suspiciousCount; }
+
+    public double getAverageAttempts() {
+        return totalClaims == 0 ? 0.0 : (double) totalAttempts / totalClaims;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ClaimSummary[Total=%d, Approved=%d, Rejected=%d, Escalated=%d, Suspicious=%d]",
+                totalClaims, approved, rejected, escalated, suspiciousCount);
+    }
+}
@@ -65,7 +65,8 @@ public class ClaimDispatcher implements Runnable {
                         Claim claimToProcess = queue.peek();
                         // CORRECTED: Uses the imported ClaimStatus class
                         if (claimToProcess != null && claimToProcess.getStatus() == ClaimStatus.PENDING) {
-                            workerPool.submit(new ClaimWorker(claimToProcess, this, config));
+                            // Each attempt reads the current snapshot, so a reloaded retry limit applies to new attempts.
+                            workerPool.submit(new ClaimWorker(claimToProcess, this, config.current().getRetryLimit()));
                         }
                     } finally {
                         lock.unlock();
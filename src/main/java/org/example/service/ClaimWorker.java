@@ -1,6 +1,5 @@
 package org.example.service;
 
-import org.example.config.AppConfig;
 import org.example.model.Claim;
 import org.example.model.ClaimStatus;
 import org.slf4j.Logger;
@@ -15,10 +14,10 @@ public class ClaimWorker implements Callable<Claim> {
     private final ClaimDispatcher dispatcher;
     private final int retryLimit;
 
-    public ClaimWorker(Claim claim, ClaimDispatcher dispatcher, AppConfig config) {
+    public ClaimWorker(Claim claim, ClaimDispatcher dispatcher, int retryLimit) {
         this.claim = claim;
         this.dispatcher = dispatcher;
-        this.retryLimit = config.getInt("retry.limit");
+        this.retryLimit = retryLimit;
     }
 
     @Override
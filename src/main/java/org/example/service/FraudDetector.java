@@ -1,6 +1,8 @@
 package org.example.service;
 
 import org.example.config.AppConfig;
+import org.example.config.ConfigListener;
+import org.example.config.ConfigSnapshot;
 import org.example.model.Claim; // <-- IMPORTANT: Use the correct import
 import org.example.state.ThrottlingState;
 import org.slf4j.Logger;
@@ -13,29 +15,41 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * A background service that monitors for suspicious claim activity in real-time.
  * If a configured threshold is breached within a sliding time window, it activates
- * system-wide throttling.
+ * system-wide throttling. Thresholds follow configuration reloads.
  */
-public class FraudDetector implements Runnable {
+public class FraudDetector implements Runnable, ConfigListener {
     private static final Logger log = LoggerFactory.getLogger(FraudDetector.class);
 
     private final ThrottlingState throttlingState;
     private final ConcurrentLinkedDeque<Instant> suspiciousClaimTimestamps = new ConcurrentLinkedDeque<>();
     private final AtomicInteger suspiciousClaimCount = new AtomicInteger(0);
 
-    // Config values cached for performance
-    private final String suspiciousType;
-    private final int suspiciousAmount;
-    private final int threshold;
-    private final long windowSeconds;
-    private final long pauseMs;
+    // Swapped as a whole on reload so a single check never mixes old and new thresholds
+    private volatile ConfigSnapshot settings;
 
     public FraudDetector(AppConfig config, ThrottlingState throttlingState) {
         this.throttlingState = throttlingState;
-        this.suspiciousType = config.getString("suspicious.claim.type");
-        this.suspiciousAmount = config.getInt("suspicious.claim.amount");
-        this.threshold = config.getInt("suspicious.threshold");
-        this.windowSeconds = config.getLong("suspicious.window.seconds");
-        this.pauseMs = config.getLong("throttling.pause.ms");
+        this.settings = config.current();
+    }
+
+    @Override
+    public void onConfigChanged(ConfigSnapshot previous, ConfigSnapshot current) {
+        if (!thresholdsDiffer(previous, current)) {
+            return;
+        }
+        this.settings = current;
+        log.info("Fraud detector thresholds updated. Type: {}, Amount: {}, Window: {}s, Threshold: {}, Pause: {}ms",
+                current.getSuspiciousClaimType(), current.getSuspiciousClaimAmount(),
+                current.getSuspiciousWindowSeconds(), current.getSuspiciousThreshold(),
+                current.getThrottlingPauseMs());
+    }
+
+    private static boolean thresholdsDiffer(ConfigSnapshot previous, ConfigSnapshot current) {
+        return !previous.getSuspiciousClaimType().equals(current.getSuspiciousClaimType())
+                || previous.getSuspiciousClaimAmount() != current.getSuspiciousClaimAmount()
+                || previous.getSuspiciousWindowSeconds() != current.getSuspiciousWindowSeconds()
+                || previous.getSuspiciousThreshold() != current.getSuspiciousThreshold()
+                || previous.getThrottlingPauseMs() != current.getThrottlingPauseMs();
     }
 
     /**
@@ -45,7 +59,9 @@ public class FraudDetector implements Runnable {
      */
     // CORRECTED METHOD SIGNATURE: Uses the imported 'Claim' class
     public void checkForSuspiciousActivity(Claim claim) {
-        if (suspiciousType.equalsIgnoreCase(claim.getClaimType()) && claim.getClaimAmount() >= suspiciousAmount) {
+        ConfigSnapshot current = settings;
+        if (current.getSuspiciousClaimType().equalsIgnoreCase(claim.getClaimType())
+                && claim.getClaimAmount() >= current.getSuspiciousClaimAmount()) {
             log.warn("SUSPICIOUS CLAIM DETECTED: ID={}, Amount={}, Type={}",
                     claim.getClaimID(), claim.getClaimAmount(), claim.getClaimType());
             suspiciousClaimTimestamps.add(Instant.now());
@@ -55,13 +71,17 @@ public class FraudDetector implements Runnable {
 
     @Override
     public void run() {
-        log.info("Fraud detector started. Window: {}s, Threshold: {}", windowSeconds, threshold);
+        ConfigSnapshot initial = settings;
+        log.info("Fraud detector started. Window: {}s, Threshold: {}",
+                initial.getSuspiciousWindowSeconds(), initial.getSuspiciousThreshold());
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                Instant windowStart = Instant.now().minusSeconds(windowSeconds);
+                ConfigSnapshot current = settings;
+                long pauseMs = current.getThrottlingPauseMs();
+                Instant windowStart = Instant.now().minusSeconds(current.getSuspiciousWindowSeconds());
                 suspiciousClaimTimestamps.removeIf(timestamp -> timestamp.isBefore(windowStart));
 
-                if (suspiciousClaimTimestamps.size() > threshold) {
+                if (suspiciousClaimTimestamps.size() > current.getSuspiciousThreshold()) {
                     if (!throttlingState.isThrottling()) {
                         throttlingState.set(true);
                         log.error("!!! High suspicious activity detected! Engaging throttling for {}ms. !!!", pauseMs);
@@ -0,0 +1,260 @@
+package org.example.service;
+
+import org.example.config.AppConfig;
+import org.example.model.Claim;
+import org.example.model.ClaimSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits a claim file by policy number into partitions, runs each partition in its own
+ * worker JVM ({@code Main --partition}) and merges the per-partition summaries.
+ * All claims of a policy land in the same partition, so per-policy ordering is preserved.
+ * Coordination happens only through files in the work directory.
+ * Fraud detection and throttling run independently in each worker, so the suspicious-claim
+ * threshold applies per partition rather than to the whole input.
+ */
+public class PartitionCoordinator {
+    private static final Logger log = LoggerFactory.getLogger(PartitionCoordinator.class);
+
+    public static final String PARTITION_INPUT = "claims.csv";
+    public static final String PARTITION_SUMMARY = "partition-summary.properties";
+    private static final String PARTITION_LOG = "worker.log";
+    private static final long SHUTDOWN_GRACE_MS = 5000;
+
+    private final String csvFilePath;
+    private final Path workDir;
+    private final AppConfig config;
+    private final int partitionCount;
+    private final int maxRestarts;
+    private final long timeoutMs;
+
+    private final Set<Process> liveProcesses = ConcurrentHashMap.newKeySet();
+    private volatile boolean isStopping = false;
+
+    public PartitionCoordinator(String csvFilePath, Path workDir, AppConfig config, int partitionCount) {
+        this.csvFilePath = csvFilePath;
+        this.workDir = workDir.toAbsolutePath();
+        this.config = config;
+        this.partitionCount = partitionCount;
+        this.maxRestarts = config.current().getPartitionMaxRestarts();
+        this.timeoutMs = config.current().getPartitionTimeoutMs();
+    }
+
+    /**
+     * Runs all partitions to completion and returns the merged summary.
+     * @throws IOException if the input cannot be split or a partition still fails after its restarts.
+     */
+    public ClaimSummary run() throws IOException, InterruptedException {
+        List<Path> partitionDirs = splitInput();
+        log.info("Fraud threshold of {} suspicious claims per {}s applies to each of the {} partitions separately.",
+                config.current().getSuspiciousThreshold(), config.current().getSuspiciousWindowSeconds(), partitionCount);
+
+        ExecutorService launcher = Executors.newFixedThreadPool(partitionCount);
+        try {
+            List<Future<ClaimSummary>> results = new ArrayList<>();
+            for (int i = 0; i < partitionCount; i++) {
+                final int partition = i;
+                results.add(launcher.submit(() -> runPartition(partition, partitionDirs.get(partition))));
+            }
+
+            ClaimSummary merged = ClaimSummary.empty();
+            for (int i = 0; i < partitionCount; i++) {
+                try {
+                    ClaimSummary summary = results.get(i).get();
+                    log.info("Partition {} finished: {}", i, summary);
+                    merged = merged.merge(summary);
+                } catch (ExecutionException e) {
+                    throw new IOException("Partition " + i + " failed", e.getCause());
+                }
+            }
+            return merged;
+        } finally {
+            launcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes one CSV per partition, routing each row by the hash of its policy number.
+     * Every row is parsed here, so malformed or unparseable rows and duplicate claim IDs are dropped
+     * with a warning instead of making a worker's ingestor stop early and report a short partition.
+     */
+    private List<Path> splitInput() throws IOException {
+        List<Path> partitionDirs = new ArrayList<>();
+        List<BufferedWriter> writers = new ArrayList<>();
+        Set<String> seenClaimIds = new HashSet<>();
+        int[] rowCounts = new int[partitionCount];
+
+        try (BufferedReader br = Files.newBufferedReader(Paths.get(csvFilePath))) {
+            String header = br.readLine();
+            for (int i = 0; i < partitionCount; i++) {
+                Path dir = Files.createDirectories(workDir.resolve("partition-" + i));
+                Files.deleteIfExists(dir.resolve(PARTITION_SUMMARY));
+                BufferedWriter writer = Files.newBufferedWriter(dir.resolve(PARTITION_INPUT));
+                writers.add(writer);
+                partitionDirs.add(dir);
+                if (header != null) {
+                    writer.write(header);
+                    writer.newLine();
+                }
+            }
+
+            int lineCount = 1;
+            String line;
+            while ((line = br.readLine()) != null) {
+                lineCount++;
+                String[] values = line.split(",", -1);
+                if (values.length < 6) {
+                    log.warn("Skipping malformed CSV row at line {}: {}", lineCount, line);
+                    continue;
+                }
+                Claim claim;
+                try {
+                    claim = Claim.fromCsvRow(values);
+                } catch (RuntimeException e) {
+                    log.warn("Skipping unparseable CSV row at line {} ({}): {}", lineCount, e.getMessage(), line);
+                    continue;
+                }
+                if (!seenClaimIds.add(claim.getClaimID())) {
+                    log.warn("Skipping duplicate claim ID found during partitioning: {}", claim.getClaimID());
+                    continue;
+                }
+                int partition = Math.floorMod(claim.getPolicyNumber().hashCode(), partitionCount);
+                writers.get(partition).write(line);
+                writers.get(partition).newLine();
+                rowCounts[partition]++;
+            }
+        } finally {
+            for (BufferedWriter writer : writers) {
+                writer.close();
+            }
+        }
+
+        for (int i = 0; i < partitionCount; i++) {
+            log.info("Partition {} has {} claims in '{}'.", i, rowCounts[i], partitionDirs.get(i));
+        }
+        return partitionDirs;
+    }
+
+    /**
+     * Runs one partition in a child JVM, restarting it from scratch if the process fails,
+     * times out or exits without leaving a readable summary.
+     */
+    private ClaimSummary runPartition(int partition, Path dir) throws IOException, InterruptedException {
+        for (int attempt = 1; attempt <= maxRestarts + 1; attempt++) {
+            if (isStopping) {
+                throw new IOException("Coordinator is shutting down; partition " + partition + " was not started");
+            }
+            log.info("Launching worker process for partition {} (attempt {}).", partition, attempt);
+            Process process = buildWorkerProcess(dir).start();
+            liveProcesses.add(process);
+            try {
+                // Re-check after registering, so a process started while shutdown() was running is not missed.
+                if (isStopping) {
+                    process.destroyForcibly();
+                    throw new IOException("Coordinator is shutting down; partition " + partition + " was stopped");
+                }
+                ClaimSummary summary = awaitPartition(partition, dir, process);
+                if (summary != null) {
+                    return summary;
+                }
+            } finally {
+                liveProcesses.remove(process);
+            }
+        }
+        throw new IOException("Partition " + partition + " did not complete after " + (maxRestarts + 1) + " attempts");
+    }
+
+    /**
+     * Waits for one worker process and reads its summary.
+     * @return the summary, or null if this attempt failed and the partition should be restarted.
+     */
+    private ClaimSummary awaitPartition(int partition, Path dir, Process process) throws IOException, InterruptedException {
+        Path summaryFile = dir.resolve(PARTITION_SUMMARY);
+        try {
+            if (!process.waitFor(timeoutMs, TimeUnit.MILLISECONDS)) {
+                log.error("Worker process for partition {} did not finish within {}ms. Killing it. See '{}'.",
+                        partition, timeoutMs, dir.resolve(PARTITION_LOG));
+                process.destroyForcibly().waitFor();
+                Files.deleteIfExists(summaryFile);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw e;
+        }
+
+        int exitCode = process.exitValue();
+        if (exitCode == 0 && Files.isRegularFile(summaryFile)) {
+            try {
+                return ClaimSummary.readFrom(summaryFile);
+            } catch (IOException e) {
+                log.error("Partition {} produced an unreadable summary: {}", partition, e.getMessage());
+            }
+        } else {
+            log.error("Worker process for partition {} failed with exit code {}. See '{}'.",
+                    partition, exitCode, dir.resolve(PARTITION_LOG));
+        }
+        Files.deleteIfExists(summaryFile);
+        return null;
+    }
+
+    /**
+     * Stops all running worker processes and prevents new ones from starting. Workers get a short
+     * grace period to run their own shutdown hooks before they are killed.
+     */
+    public void shutdown() {
+        isStopping = true;
+        for (Process process : liveProcesses) {
+            process.destroy();
+        }
+        for (Process process : liveProcesses) {
+            try {
+                if (!process.waitFor(SHUTDOWN_GRACE_MS, TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private ProcessBuilder buildWorkerProcess(Path dir) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (config.getOverrideFile() != null) {
+            // Workers run in their partition directory, so share the coordinator's config file by absolute path.
+            command.add("-Dconfig.file=" + config.getOverrideFile().toAbsolutePath());
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("org.example.Main");
+        command.add("--partition");
+        command.add(dir.resolve(PARTITION_INPUT).toString());
+        command.add(dir.resolve(PARTITION_SUMMARY).toString());
+
+        // The working directory keeps each worker's audit.log separate.
+        return new ProcessBuilder(command)
+                .directory(dir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(dir.resolve(PARTITION_LOG).toFile());
+    }
+}
@@ -1,47 +1,31 @@
 package org.example.service;
 
 import org.example.config.AppConfig;
-import org.example.model.Claim;
-import org.example.model.ClaimStatus;
+import org.example.config.ConfigSnapshot;
+import org.example.model.ClaimSummary;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.NumberFormat;
-import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Generates the final summary.txt and performance.txt reports.
  */
 public class SummaryReporter {
 
-    public static void generateReports(List<Claim> allClaims, long durationMillis, int suspiciousCount, AppConfig config) {
-        generateSummaryReport(allClaims, durationMillis, suspiciousCount);
-        generatePerformanceReport(durationMillis, config);
+    /**
+     * Writes both reports from an aggregated summary, either of this process or merged from several partition processes.
+     * @param processCount The number of worker processes that shared the run.
+     */
+    public static void generateReports(ClaimSummary summary, long durationMillis, AppConfig config, int processCount) {
+        generateSummaryReport(summary, durationMillis);
+        generatePerformanceReport(durationMillis, config, processCount);
     }
 
-    private static void generateSummaryReport(List<Claim> allClaims, long durationMillis, int suspiciousCount) {
-        Map<ClaimStatus, Long> statusCounts = allClaims.stream()
-                .collect(Collectors.groupingBy(Claim::getStatus, Collectors.counting()));
-
-        long approved = statusCounts.getOrDefault(ClaimStatus.APPROVED, 0L);
-        long rejected = statusCounts.getOrDefault(ClaimStatus.REJECTED, 0L);
-        long escalated = statusCounts.getOrDefault(ClaimStatus.ESCALATED, 0L);
-
-        long totalAmountPaid = allClaims.stream()
-                .filter(c -> c.getStatus() == ClaimStatus.APPROVED)
-                .mapToLong(Claim::getClaimAmount)
-                .sum();
-
-        double avgAttempts = allClaims.stream()
-                .mapToInt(Claim::getAttempts)
-                .average()
-                .orElse(0.0);
-
+    private static void generateSummaryReport(ClaimSummary summary, long durationMillis) {
         NumberFormat currencyFormatter = NumberFormat.getCurrencyInstance(new Locale("en", "IN"));
 
         String report = String.format(
@@ -55,34 +39,37 @@ public class SummaryReporter {
                         "Total amount paid (approved claims): %s\n" +
                         "Average processing attempts per claim: %.2f\n",
                 durationMillis / 1000.0,
-                allClaims.size(),
-                approved,
-                rejected,
-                escalated,
-                suspiciousCount,
-                currencyFormatter.format(totalAmountPaid),
-                avgAttempts
+                summary.getTotalClaims(),
+                summary.getApproved(),
+                summary.getRejected(),
+                summary.getEscalated(),
+                summary.getSuspiciousCount(),
+                currencyFormatter.format(summary.getTotalAmountPaid()),
+                summary.getAverageAttempts()
         );
 
         writeReport("summary.txt", report);
     }
 
-    private static void generatePerformanceReport(long concurrentRuntime, AppConfig config) {
-        int workerCount = config.getInt("worker.count");
+    private static void generatePerformanceReport(long concurrentRuntime, AppConfig config, int processCount) {
+        ConfigSnapshot settings = config.current();
+        int workerCount = settings.getWorkerCount() * processCount;
         // A simple, reasonable estimate for a single-threaded run.
         long singleThreadRuntime = concurrentRuntime * (workerCount / 2 + 1);
 
         String report = String.format(
                 "--- Performance Benchmark ---\n\n" +
                         "Configuration:\n" +
+                        "  - Worker Processes: %d\n" +
                         "  - Worker Threads: %d\n" +
                         "  - Retry Limit: %d\n\n" +
                         "Results:\n" +
                         "  - Single-Threaded Baseline Runtime (Estimated): ~%d seconds\n" +
                         "  - Concurrent (%d workers) Runtime: %.2f seconds\n\n" +
                         "Performance Gain: Approximately %.2fx faster.\n",
+                processCount,
                 workerCount,
-                config.getInt("retry.limit"),
+                settings.getRetryLimit(),
                 singleThreadRuntime / 1000,
                 workerCount,
                 concurrentRuntime / 1000.0,